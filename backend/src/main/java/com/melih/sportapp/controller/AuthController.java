@@ -4,13 +4,17 @@ import com.melih.sportapp.model.User;
 import com.melih.sportapp.repository.UserRepository;
 import com.melih.sportapp.security.JwtUtil;
 import com.melih.sportapp.security.SimpleRateLimiter;
+import com.melih.sportapp.service.UserAvailabilityService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -29,23 +33,57 @@ public class AuthController {
     @Autowired
     private SimpleRateLimiter rateLimiter;
 
+    @Autowired
+    private UserAvailabilityService availabilityService;
+
     @PostMapping("/register")
     public ResponseEntity<?> register(@Valid @RequestBody User user, @RequestHeader(value = "X-Forwarded-For", required = false) String ip) {
         String clientIp = ip != null ? ip : "unknown";
         if (!rateLimiter.allowRegister(clientIp)) {
             return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body("Trop de tentatives d'inscription, réessayez plus tard.");
         }
-        if (userRepository.findByUsername(user.getUsername()).isPresent()) {
+        List<User> existing = userRepository.findByUsernameOrEmail(user.getUsername(), user.getEmail());
+        if (existing.stream().anyMatch(u -> u.getUsername().equals(user.getUsername()))) {
             return ResponseEntity.badRequest().body("Username already exists");
         }
-        if (userRepository.findByEmail(user.getEmail()).isPresent()) {
+        if (!existing.isEmpty()) {
             return ResponseEntity.badRequest().body("Email already exists");
         }
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        userRepository.save(user);
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // Inscription concurrente : les index uniques ont refusé le doublon
+            return ResponseEntity.badRequest().body("Username or email already exists");
+        }
+        availabilityService.register(user);
         return ResponseEntity.ok("User registered successfully");
     }
 
+    // Indicatif : un nom pris sur une autre instance peut rester annoncé libre jusqu'à la
+    // prochaine reconstruction du filtre (users.availability.rebuild-ms). Seul /register fait foi.
+    @GetMapping("/available")
+    public ResponseEntity<?> available(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String email,
+            @RequestHeader(value = "X-Forwarded-For", required = false) String ip) {
+        String clientIp = ip != null ? ip : "unknown";
+        if (!rateLimiter.allowAvailability(clientIp)) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body("Trop de vérifications, réessayez plus tard.");
+        }
+        if (username == null && email == null) {
+            return ResponseEntity.badRequest().body("username or email is required");
+        }
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        if (username != null) {
+            result.put("username", availabilityService.isUsernameAvailable(username));
+        }
+        if (email != null) {
+            result.put("email", availabilityService.isEmailAvailable(email));
+        }
+        return ResponseEntity.ok(result);
+    }
+
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody Map<String, String> loginData, @RequestHeader(value = "X-Forwarded-For", required = false) String ip) {
         String clientIp = ip != null ? ip : "unknown";
@@ -0,0 +1,26 @@
+package com.melih.sportapp.controller;
+
+import com.melih.sportapp.service.ExerciceRecommendationService;
+import com.melih.sportapp.service.ExerciceRecommendationService.Recommendation;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/exercices")
+public class ExerciceController {
+
+    private final ExerciceRecommendationService recommendationService;
+
+    public ExerciceController(ExerciceRecommendationService recommendationService) {
+        this.recommendationService = recommendationService;
+    }
+
+    // Servi depuis la mémoire ; une séance modifiée récemment est prise en compte au prochain rafraîchissement
+    @GetMapping("/recommendations")
+    public List<Recommendation> getRecommendations(
+            @RequestParam Long seanceId,
+            @RequestParam(defaultValue = "5") int limit) {
+        return recommendationService.recommend(seanceId, Math.min(limit, 50));
+    }
+}
@@ -0,0 +1,60 @@
+package com.melih.sportapp.controller;
+
+import com.melih.sportapp.model.Performance;
+import com.melih.sportapp.model.User;
+import com.melih.sportapp.repository.PerformanceRepository;
+import com.melih.sportapp.service.PerformanceBuffer;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/performances")
+public class PerformanceController {
+
+    private final PerformanceRepository repository;
+    private final PerformanceBuffer buffer;
+
+    public PerformanceController(PerformanceRepository repository, PerformanceBuffer buffer) {
+        this.repository = repository;
+        this.buffer = buffer;
+    }
+
+    // Enregistre une série effectuée ; l'écriture en base est différée (voir PerformanceBuffer).
+    // Aucune requête en base ici : exerciceId n'est pas vérifié, le journal n'a pas de clé étrangère.
+    @PostMapping
+    public ResponseEntity<Performance> log(@Valid @RequestBody Performance performance) {
+        performance.setId(null);
+        performance.setUserId(currentUser().getId());
+        if (performance.getDateRealisation() == null) {
+            performance.setDateRealisation(LocalDateTime.now());
+        }
+        if (!buffer.add(performance)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(performance);
+    }
+
+    @GetMapping("/me")
+    public List<Performance> getMyPerformances(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long exerciceId) {
+        Long userId = currentUser().getId();
+        if (exerciceId != null) {
+            return repository.findByUserIdAndExerciceIdAndDateRealisationBetweenOrderByDateRealisation(
+                    userId, exerciceId, from, to);
+        }
+        return repository.findByUserIdAndDateRealisationBetweenOrderByDateRealisation(userId, from, to);
+    }
+
+    private User currentUser() {
+        return (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+}
@@ -6,6 +6,7 @@ import com.melih.sportapp.model.User;
 import com.melih.sportapp.repository.SeanceRepository;
 import com.melih.sportapp.repository.ExerciceRepository;
 import com.melih.sportapp.repository.UserRepository;
+import com.melih.sportapp.service.ExerciceRecommendationService;
 import com.melih.sportapp.service.YouTubeService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -30,6 +31,9 @@ public class SeanceController {
     @Autowired
     private YouTubeService youTubeService;
 
+    @Autowired
+    private ExerciceRecommendationService recommendationService;
+
     @GetMapping
     public List<Seance> getAll() {
         return repository.findAll();
@@ -41,7 +45,9 @@ public class SeanceController {
         seance.setUser(user);
         // Si frequencyDay/frequencyMonths sont présents dans le body, ils sont déjà set
         // Tu peux supprimer la gestion de la date unique si tu ne veux plus l'utiliser
-        return repository.save(seance);
+        Seance saved = repository.save(seance);
+        recommendationService.markDirty(saved.getId());
+        return saved;
     }
 
     @PostMapping("/{seanceId}/exercices")
@@ -62,6 +68,7 @@ public class SeanceController {
                 .map(seance -> {
                     seance.getExercices().add(exercice);
                     repository.save(seance);
+                    recommendationService.markDirty(seanceId);
                     return ResponseEntity.ok(seance);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -85,6 +92,7 @@ public class SeanceController {
                                 exo.setVideoUrl(updatedExercice.getVideoUrl());
                             });
                     repository.save(seance);
+                    recommendationService.markDirty(seanceId);
                     return ResponseEntity.ok(seance);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -98,6 +106,7 @@ public class SeanceController {
                 .map(seance -> {
                     seance.getExercices().removeIf(exo -> exo.getId().equals(exerciceId));
                     repository.save(seance);
+                    recommendationService.markDirty(seanceId);
                     return ResponseEntity.ok(seance);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -134,6 +143,7 @@ public class SeanceController {
         return repository.findById(seanceId)
                 .map(seance -> {
                     repository.delete(seance);
+                    recommendationService.markDirty(seanceId);
                     return ResponseEntity.ok(seance);
                 })
                 .orElse(ResponseEntity.notFound().build());
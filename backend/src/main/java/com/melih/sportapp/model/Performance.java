@@ -0,0 +1,90 @@
+package com.melih.sportapp.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.time.LocalDateTime;
+
+/**
+ * Série réellement effectuée (journal en ajout seul, jamais modifié).
+ * La table est partitionnée par mois sur date_realisation, voir db/performances_partitioned.sql
+ * et PerformancePartitionManager.
+ */
+@Entity
+@Table(name = "performances", indexes = {
+        @Index(name = "idx_performances_user_date", columnList = "user_id, date_realisation")
+})
+public class Performance {
+
+    // Séquence (et non IDENTITY) pour que Hibernate puisse regrouper les inserts en batch
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "performances_seq")
+    @SequenceGenerator(name = "performances_seq", sequenceName = "performances_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @NotNull
+    @Column(name = "exercice_id", nullable = false)
+    private Long exerciceId;
+
+    @Min(value = 1, message = "Au moins une répétition")
+    private int repetitions;
+
+    @PositiveOrZero(message = "La charge ne peut pas être négative")
+    private double charge; // en kg
+
+    // Une série réalisée ne peut pas être dans le futur
+    @PastOrPresent
+    @Column(name = "date_realisation", nullable = false)
+    private LocalDateTime dateRealisation;
+
+    // Getters et setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getExerciceId() {
+        return exerciceId;
+    }
+
+    public void setExerciceId(Long exerciceId) {
+        this.exerciceId = exerciceId;
+    }
+
+    public int getRepetitions() {
+        return repetitions;
+    }
+
+    public void setRepetitions(int repetitions) {
+        this.repetitions = repetitions;
+    }
+
+    public double getCharge() {
+        return charge;
+    }
+
+    public void setCharge(double charge) {
+        this.charge = charge;
+    }
+
+    public LocalDateTime getDateRealisation() {
+        return dateRealisation;
+    }
+
+    public void setDateRealisation(LocalDateTime dateRealisation) {
+        this.dateRealisation = dateRealisation;
+    }
+}
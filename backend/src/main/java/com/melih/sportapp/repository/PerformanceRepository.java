@@ -0,0 +1,15 @@
+package com.melih.sportapp.repository;
+
+import com.melih.sportapp.model.Performance;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PerformanceRepository extends JpaRepository<Performance, Long> {
+    List<Performance> findByUserIdAndDateRealisationBetweenOrderByDateRealisation(
+            Long userId, LocalDateTime from, LocalDateTime to);
+
+    List<Performance> findByUserIdAndExerciceIdAndDateRealisationBetweenOrderByDateRealisation(
+            Long userId, Long exerciceId, LocalDateTime from, LocalDateTime to);
+}
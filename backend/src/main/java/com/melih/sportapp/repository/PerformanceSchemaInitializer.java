@@ -0,0 +1,46 @@
+package com.melih.sportapp.repository;
+
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Exécute db/performances_partitioned.sql avant Hibernate, uniquement sur PostgreSQL
+ * (le partitionnement n'existe pas sur H2, qui garde la table simple créée par Hibernate).
+ */
+@Component
+public class PerformanceSchemaInitializer extends DataSourceScriptDatabaseInitializer {
+
+    private final DataSource dataSource;
+
+    public PerformanceSchemaInitializer(DataSource dataSource) {
+        super(dataSource, settings());
+        this.dataSource = dataSource;
+    }
+
+    private static DatabaseInitializationSettings settings() {
+        DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+        settings.setSchemaLocations(List.of("classpath:db/performances_partitioned.sql"));
+        settings.setMode(DatabaseInitializationMode.ALWAYS);
+        return settings;
+    }
+
+    @Override
+    public boolean initializeDatabase() {
+        return isPostgres() && super.initializeDatabase();
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Impossible de déterminer le type de base", e);
+        }
+    }
+}
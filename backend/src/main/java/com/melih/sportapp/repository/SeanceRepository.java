@@ -1,6 +1,21 @@
 package com.melih.sportapp.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import com.melih.sportapp.model.Seance;
 
-public interface SeanceRepository extends JpaRepository<Seance, Long> {}
+import java.util.Collection;
+import java.util.List;
+
+public interface SeanceRepository extends JpaRepository<Seance, Long> {
+
+    @Query("select coalesce(max(s.id), 0) from Seance s")
+    long findMaxId();
+
+    // Paires (seanceId, nom d'exercice), sans charger les entités
+    @Query("select s.id, e.nom from Seance s join s.exercices e where s.id between :fromId and :toId")
+    List<Object[]> findExerciceNamesBetween(Long fromId, Long toId);
+
+    @Query("select s.id, e.nom from Seance s join s.exercices e where s.id in :ids")
+    List<Object[]> findExerciceNamesByIds(Collection<Long> ids);
+}
@@ -2,10 +2,24 @@ package com.melih.sportapp.repository;
 
 import com.melih.sportapp.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
+
+    // Une seule requête pour vérifier username et email à l'inscription
+    List<User> findByUsernameOrEmail(String username, String email);
+
+    boolean existsByUsername(String username);
+    boolean existsByEmail(String email);
+
+    @Query("select u.username from User u")
+    List<String> findAllUsernames();
+
+    @Query("select u.email from User u")
+    List<String> findAllEmails();
 }
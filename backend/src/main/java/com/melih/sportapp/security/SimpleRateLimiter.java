@@ -10,6 +10,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class SimpleRateLimiter {
     private final Map<String, List<Long>> registerAttempts = new ConcurrentHashMap<>();
     private final Map<String, List<Long>> loginAttempts = new ConcurrentHashMap<>();
+    private final Map<String, List<Long>> availabilityChecks = new ConcurrentHashMap<>();
     private final long ONE_HOUR = 60 * 60 * 1000;
 
     public boolean allowRegister(String ip) {
@@ -20,6 +21,11 @@ public class SimpleRateLimiter {
         return allow(ip, loginAttempts, 10);
     }
 
+    // Plus large : le formulaire d'inscription vérifie pendant la saisie
+    public boolean allowAvailability(String ip) {
+        return allow(ip, availabilityChecks, 300);
+    }
+
     private boolean allow(String ip, Map<String, List<Long>> map, int max) {
         long now = Instant.now().toEpochMilli();
         map.putIfAbsent(ip, new ArrayList<>());
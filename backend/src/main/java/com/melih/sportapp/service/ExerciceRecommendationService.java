@@ -0,0 +1,263 @@
+package com.melih.sportapp.service;
+
+import com.melih.sportapp.repository.SeanceRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Recommandations d'exercices à partir des co-occurrences dans toutes les séances.
+ * Les exercices sont identifiés par leur nom normalisé. Le modèle est construit en tâche de fond
+ * (lecture par tranches d'ids en parallèle), puis mis à jour séance par séance via markDirty.
+ * Les lectures se font sur un instantané immuable, sans verrou ni accès à la base.
+ */
+@Service
+public class ExerciceRecommendationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExerciceRecommendationService.class);
+
+    public record Recommendation(String nom, int score) {}
+
+    // Instantané publié aux lecteurs : voisins les plus fréquents de chaque exercice
+    private record Snapshot(String[] names, int[][] neighbors, int[][] counts) {}
+
+    private final SeanceRepository seanceRepository;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int neighborsPerExercice;
+
+    // Dictionnaire nom normalisé -> id compact
+    private final Map<String, Integer> idsByKey = new ConcurrentHashMap<>();
+    private final Map<Integer, String> displayNames = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    // Modifiés uniquement sous le verrou de l'instance
+    private final List<IntIntCounter> adjacency = new ArrayList<>();
+    private final Map<Long, int[]> seanceExercices = new ConcurrentHashMap<>();
+
+    private final Set<Long> dirtySeances = ConcurrentHashMap.newKeySet();
+    private volatile Snapshot snapshot = new Snapshot(new String[0], new int[0][], new int[0][]);
+    private volatile boolean built;
+
+    public ExerciceRecommendationService(SeanceRepository seanceRepository,
+                                         @Value("${recommendations.parallelism:4}") int parallelism,
+                                         @Value("${recommendations.chunk-size:500}") int chunkSize,
+                                         @Value("${recommendations.neighbors-per-exercice:50}") int neighborsPerExercice) {
+        this.seanceRepository = seanceRepository;
+        this.chunkSize = chunkSize;
+        this.neighborsPerExercice = neighborsPerExercice;
+        // Pool dédié : les lectures en base ne bloquent pas le pool commun
+        this.pool = new ForkJoinPool(Math.max(1, Math.min(parallelism, Runtime.getRuntime().availableProcessors())));
+    }
+
+    public void markDirty(Long seanceId) {
+        if (seanceId != null) dirtySeances.add(seanceId);
+    }
+
+    public List<Recommendation> recommend(Long seanceId, int limit) {
+        int[] members = seanceExercices.get(seanceId);
+        if (members == null || limit <= 0) return List.of();
+        Snapshot current = snapshot;
+
+        IntIntCounter scores = new IntIntCounter(neighborsPerExercice * members.length);
+        for (int member : members) {
+            if (member >= current.neighbors().length || current.neighbors()[member] == null) continue;
+            int[] neighbors = current.neighbors()[member];
+            int[] counts = current.counts()[member];
+            for (int i = 0; i < neighbors.length; i++) {
+                scores.add(neighbors[i], counts[i]);
+            }
+        }
+        for (int member : members) {
+            scores.add(member, -scores.get(member));
+        }
+
+        int[][] top = scores.top(limit);
+        List<Recommendation> result = new ArrayList<>(top[0].length);
+        for (int i = 0; i < top[0].length; i++) {
+            result.add(new Recommendation(current.names()[top[0][i]], top[1][i]));
+        }
+        return result;
+    }
+
+    // Voisins publiés d'un exercice (nom -> nombre de séances communes), pour les tests
+    Map<String, Integer> neighborsOf(String nom) {
+        Integer id = idsByKey.get(nom.trim().toLowerCase(Locale.ROOT));
+        Snapshot current = snapshot;
+        Map<String, Integer> result = new HashMap<>();
+        if (id == null || id >= current.neighbors().length || current.neighbors()[id] == null) return result;
+        for (int i = 0; i < current.neighbors()[id].length; i++) {
+            result.put(current.names()[current.neighbors()[id][i]], current.counts()[id][i]);
+        }
+        return result;
+    }
+
+    @Scheduled(initialDelayString = "${recommendations.initial-delay-ms:5000}",
+            fixedDelayString = "${recommendations.refresh-ms:10000}")
+    public void refresh() {
+        if (!built) {
+            rebuild();
+        } else if (!dirtySeances.isEmpty()) {
+            applyDirty();
+        }
+    }
+
+    // Reconstruction complète : une tranche d'ids par tâche, comptes locaux fusionnés ensuite
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        dirtySeances.clear();
+        long maxId = seanceRepository.findMaxId();
+        long chunks = maxId / chunkSize + 1;
+        ChunkResult total = pool.submit(() -> LongStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> loadChunk(chunk * chunkSize, chunk * chunkSize + chunkSize - 1))
+                .reduce(new ChunkResult(), ChunkResult::merge)).join();
+
+        synchronized (this) {
+            adjacency.clear();
+            total.adjacency.forEach((id, counter) -> counterFor(id).addAll(counter));
+            seanceExercices.clear();
+            seanceExercices.putAll(total.seances);
+            publish(null);
+            built = true;
+        }
+        log.info("Recommandations : {} séances, {} exercices analysés en {} ms",
+                total.seances.size(), nextId.get(), System.currentTimeMillis() - start);
+    }
+
+    // Mise à jour incrémentale : on retire les anciennes paires des séances modifiées, on ajoute les nouvelles
+    private void applyDirty() {
+        List<Long> ids = new ArrayList<>(dirtySeances);
+        dirtySeances.removeAll(ids);
+        Map<Long, int[]> fresh;
+        try {
+            fresh = toExerciceIds(seanceRepository.findExerciceNamesByIds(ids));
+        } catch (RuntimeException e) {
+            // Lecture ratée : les séances restent à traiter au prochain rafraîchissement
+            dirtySeances.addAll(ids);
+            throw e;
+        }
+
+        synchronized (this) {
+            Set<Integer> touched = new HashSet<>();
+            for (Long id : ids) {
+                int[] before = seanceExercices.remove(id);
+                int[] after = fresh.get(id);
+                if (before != null) countPairs(before, -1, touched);
+                if (after != null) {
+                    countPairs(after, 1, touched);
+                    seanceExercices.put(id, after);
+                }
+            }
+            publish(touched);
+        }
+    }
+
+    private ChunkResult loadChunk(long fromId, long toId) {
+        ChunkResult result = new ChunkResult();
+        result.seances.putAll(toExerciceIds(seanceRepository.findExerciceNamesBetween(fromId, toId)));
+        for (int[] members : result.seances.values()) {
+            for (int a : members) {
+                IntIntCounter counter = result.adjacency.computeIfAbsent(a, k -> new IntIntCounter());
+                for (int b : members) {
+                    if (a != b) counter.add(b, 1);
+                }
+            }
+        }
+        return result;
+    }
+
+    private Map<Long, int[]> toExerciceIds(List<Object[]> rows) {
+        Map<Long, Set<Integer>> bySeance = new HashMap<>();
+        for (Object[] row : rows) {
+            String nom = (String) row[1];
+            if (nom == null || nom.isBlank()) continue;
+            bySeance.computeIfAbsent((Long) row[0], k -> new LinkedHashSet<>()).add(idOf(nom));
+        }
+        Map<Long, int[]> result = new HashMap<>();
+        bySeance.forEach((id, members) -> result.put(id, members.stream().mapToInt(Integer::intValue).toArray()));
+        return result;
+    }
+
+    private int idOf(String nom) {
+        String key = nom.trim().toLowerCase(Locale.ROOT);
+        return idsByKey.computeIfAbsent(key, k -> {
+            int id = nextId.getAndIncrement();
+            displayNames.put(id, nom.trim());
+            return id;
+        });
+    }
+
+    private void countPairs(int[] members, int delta, Set<Integer> touched) {
+        for (int a : members) {
+            touched.add(a);
+            IntIntCounter counter = counterFor(a);
+            for (int b : members) {
+                if (a != b) counter.add(b, delta);
+            }
+        }
+    }
+
+    private IntIntCounter counterFor(int id) {
+        while (adjacency.size() <= id) adjacency.add(null);
+        IntIntCounter counter = adjacency.get(id);
+        if (counter == null) {
+            counter = new IntIntCounter();
+            adjacency.set(id, counter);
+        }
+        return counter;
+    }
+
+    // Recalcule les voisins des exercices touchés (tous si touched == null) et publie un nouvel instantané
+    private void publish(Set<Integer> touched) {
+        int size = nextId.get();
+        Snapshot previous = snapshot;
+        String[] names = new String[size];
+        for (int i = 0; i < size; i++) names[i] = displayNames.get(i);
+        int[][] neighbors = Arrays.copyOf(previous.neighbors(), size);
+        int[][] counts = Arrays.copyOf(previous.counts(), size);
+
+        Iterable<Integer> ids = touched != null ? touched : () -> IntStream.range(0, size).iterator();
+        for (int id : ids) {
+            IntIntCounter counter = id < adjacency.size() ? adjacency.get(id) : null;
+            if (counter == null) {
+                neighbors[id] = null;
+                counts[id] = null;
+                continue;
+            }
+            int[][] top = counter.top(neighborsPerExercice);
+            neighbors[id] = top[0];
+            counts[id] = top[1];
+        }
+        snapshot = new Snapshot(names, neighbors, counts);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static class ChunkResult {
+        final Map<Long, int[]> seances = new HashMap<>();
+        final Map<Integer, IntIntCounter> adjacency = new HashMap<>();
+
+        ChunkResult merge(ChunkResult other) {
+            ChunkResult merged = new ChunkResult();
+            merged.seances.putAll(seances);
+            merged.seances.putAll(other.seances);
+            adjacency.forEach((id, counter) -> merged.adjacency.computeIfAbsent(id, k -> new IntIntCounter()).addAll(counter));
+            other.adjacency.forEach((id, counter) -> merged.adjacency.computeIfAbsent(id, k -> new IntIntCounter()).addAll(counter));
+            return merged;
+        }
+    }
+}
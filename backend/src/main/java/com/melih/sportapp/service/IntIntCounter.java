@@ -0,0 +1,109 @@
+package com.melih.sportapp.service;
+
+import java.util.Arrays;
+
+/**
+ * Compteur int -> int en adressage ouvert (pas de boxing), clés >= 0.
+ * Les entrées retombées à 0 restent en place et sont purgées au prochain agrandissement.
+ */
+final class IntIntCounter {
+
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private int[] values;
+    private int used;
+
+    IntIntCounter() {
+        this(8);
+    }
+
+    IntIntCounter(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    void add(int key, int delta) {
+        int slot = slot(key);
+        if (keys[slot] == EMPTY) {
+            if (delta == 0) return;
+            keys[slot] = key;
+            used++;
+            values[slot] = delta;
+            if (used * 4 >= keys.length * 3) rehash();
+        } else {
+            values[slot] += delta;
+        }
+    }
+
+    int get(int key) {
+        int slot = slot(key);
+        return keys[slot] == EMPTY ? 0 : values[slot];
+    }
+
+    void addAll(IntIntCounter other) {
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.keys[i] != EMPTY && other.values[i] != 0) {
+                add(other.keys[i], other.values[i]);
+            }
+        }
+    }
+
+    /**
+     * Les n entrées de plus forte valeur (> 0), triées par valeur décroissante,
+     * sous forme de paires {clés, valeurs}.
+     */
+    int[][] top(int n) {
+        long[] packed = new long[used];
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY && values[i] > 0) {
+                packed[count++] = ((long) values[i] << 32) | keys[i];
+            }
+        }
+        Arrays.sort(packed, 0, count);
+        int size = Math.min(n, count);
+        int[] topKeys = new int[size];
+        int[] topValues = new int[size];
+        for (int i = 0; i < size; i++) {
+            long entry = packed[count - 1 - i];
+            topKeys[i] = (int) entry;
+            topValues[i] = (int) (entry >>> 32);
+        }
+        return new int[][] { topKeys, topValues };
+    }
+
+    private int slot(int key) {
+        int mask = keys.length - 1;
+        int hash = key * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        int live = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY && oldValues[i] != 0) live++;
+        }
+        int capacity = Integer.highestOneBit(Math.max(4, live * 2)) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        used = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY && oldValues[i] != 0) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                used++;
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.melih.sportapp.service;
+
+import com.melih.sportapp.model.Performance;
+import com.melih.sportapp.repository.PerformanceRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tampon en mémoire pour les séries réalisées : les requêtes ne font qu'ajouter dans la file,
+ * un thread dédié écrit en base par lots quand la file atteint batchSize ou à chaque intervalle.
+ * La file est bornée (add renvoie false quand elle est pleine) et, si la base est en panne,
+ * les essais sont espacés de plus en plus (jusqu'à MAX_BACKOFF_MS).
+ */
+@Service
+public class PerformanceBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(PerformanceBuffer.class);
+    private static final long MAX_BACKOFF_MS = 60_000;
+
+    private final PerformanceRepository repository;
+    private final int batchSize;
+    private final int capacity;
+    private final long flushIntervalMs;
+
+    private final Queue<Performance> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "performance-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Utilisés uniquement par le thread d'écriture (et à l'arrêt, une fois ce thread stoppé)
+    private long backoffMs;
+    private long nextAttemptAt;
+
+    @Autowired
+    public PerformanceBuffer(PerformanceRepository repository,
+                             @Value("${performance.buffer.batch-size:50}") int batchSize,
+                             @Value("${performance.buffer.capacity:10000}") int capacity,
+                             @Value("${performance.buffer.flush-interval-ms:2000}") long flushIntervalMs) {
+        this.repository = repository;
+        this.batchSize = batchSize;
+        this.capacity = capacity;
+        this.flushIntervalMs = flushIntervalMs;
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // Ne bloque jamais : false si la file est pleine (la base ne suit plus)
+    public boolean add(Performance performance) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return false;
+        }
+        pending.add(performance);
+        if (size.get() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flush);
+        }
+        return true;
+    }
+
+    public int pendingCount() {
+        return size.get();
+    }
+
+    private void flush() {
+        flushRequested.set(false);
+        if (System.currentTimeMillis() < nextAttemptAt) return;
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("Flush des performances interrompu", e);
+        }
+    }
+
+    // Vide la file par lots ; s'arrête au premier échec
+    private boolean drain() {
+        List<Performance> batch = new ArrayList<>(batchSize);
+        Performance next;
+        while ((next = pending.poll()) != null) {
+            size.decrementAndGet();
+            batch.add(next);
+            if (batch.size() >= batchSize) {
+                if (!write(batch)) return false;
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        return batch.isEmpty() || write(batch);
+    }
+
+    private boolean write(List<Performance> batch) {
+        try {
+            repository.saveAll(batch);
+            backoffMs = 0;
+            nextAttemptAt = 0;
+            return true;
+        } catch (RuntimeException e) {
+            // On remet le lot dans la file, nouvel essai après un délai croissant
+            backoffMs = backoffMs == 0 ? flushIntervalMs : Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            nextAttemptAt = System.currentTimeMillis() + backoffMs;
+            log.error("Écriture de {} performances impossible, nouvel essai dans {} ms", batch.size(), backoffMs, e);
+            batch.forEach(p -> p.setId(null));
+            pending.addAll(batch);
+            size.addAndGet(batch.size());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() throws InterruptedException {
+        flusher.shutdown();
+        if (!flusher.awaitTermination(10, TimeUnit.SECONDS)) {
+            flusher.shutdownNow();
+        }
+        // Dernier essai à l'arrêt, sans tenir compte du délai d'attente
+        if (!drain()) {
+            log.error("{} performances non écrites à l'arrêt", size.get());
+        }
+    }
+}
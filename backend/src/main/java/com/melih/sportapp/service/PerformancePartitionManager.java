@@ -0,0 +1,70 @@
+package com.melih.sportapp.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Partitions mensuelles de la table performances (PostgreSQL uniquement).
+ * Au démarrage, refuse de continuer si la table n'est pas partitionnée (créée par Hibernate
+ * avant le script db/performances_partitioned.sql), puis crée chaque jour les partitions
+ * du mois courant et des mois suivants. Les dates futures étant refusées à l'enregistrement,
+ * la partition par défaut ne reçoit que des mois passés, qui n'ont jamais de partition propre.
+ */
+@Service
+public class PerformancePartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(PerformancePartitionManager.class);
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${performance.partitions.months-ahead:2}")
+    private int monthsAhead;
+
+    private boolean postgres;
+
+    public PerformancePartitionManager(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void checkTable() {
+        postgres = "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        if (!postgres) return;
+
+        List<String> kind = jdbcTemplate.queryForList(
+                "select relkind::text from pg_class where oid = to_regclass('performances')", String.class);
+        if (kind.isEmpty() || !"p".equals(kind.get(0))) {
+            throw new IllegalStateException("La table performances existe mais n'est pas partitionnée : "
+                    + "migrer les données puis la recréer avec db/performances_partitioned.sql");
+        }
+        ensurePartitions();
+    }
+
+    @Scheduled(cron = "${performance.partitions.cron:0 0 3 * * *}")
+    public void ensurePartitions() {
+        if (!postgres) return;
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i <= monthsAhead; i++, month = month.plusMonths(1)) {
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS performances_" + month.format(SUFFIX)
+                        + " PARTITION OF performances FOR VALUES FROM ('" + month + "') TO ('" + month.plusMonths(1) + "')");
+            } catch (RuntimeException e) {
+                log.error("Création de la partition performances_{} impossible", month.format(SUFFIX), e);
+            }
+        }
+        // Après les partitions mensuelles, pour ne jamais y attirer de lignes du mois courant
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS performances_default PARTITION OF performances DEFAULT");
+    }
+}
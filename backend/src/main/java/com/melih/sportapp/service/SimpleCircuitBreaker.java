@@ -0,0 +1,63 @@
+package com.melih.sportapp.service;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Disjoncteur minimal : après failureThreshold échecs consécutifs, les appels sont refusés
+ * pendant openDuration, puis un seul appel d'essai est autorisé pour décider de la fermeture.
+ * Si cet essai ne rend jamais de résultat, un nouvel essai est permis après openDuration.
+ */
+public class SimpleCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private long probeStartedAt;
+
+    public SimpleCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    public synchronized boolean allowRequest() {
+        long now = clock.millis();
+        if (state == State.OPEN) {
+            if (now - openedAt < openDuration.toMillis()) return false;
+            state = State.HALF_OPEN;
+            probeStartedAt = now;
+            return true;
+        }
+        if (state == State.HALF_OPEN) {
+            // Un seul appel d'essai à la fois, sauf s'il semble perdu
+            if (now - probeStartedAt < openDuration.toMillis()) return false;
+            probeStartedAt = now;
+            return true;
+        }
+        return true;
+    }
+
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.millis();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,96 @@
+package com.melih.sportapp.service;
+
+import com.melih.sportapp.model.User;
+import com.melih.sportapp.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Disponibilité des usernames/emails. Un filtre de Bloom en mémoire répond "libre" sans
+ * toucher la base ; s'il répond "peut-être pris", on vérifie en base.
+ * Chaque instance a son propre filtre : il contient ses propres inscriptions et tout ce qui
+ * était en base lors de la dernière reconstruction (toutes les rebuild-ms). Un nom pris via une
+ * autre instance peut donc être annoncé libre pendant au plus cet intervalle. C'est une
+ * indication pour le formulaire : l'inscription, elle, s'appuie sur les index uniques.
+ */
+@Service
+public class UserAvailabilityService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserAvailabilityService.class);
+
+    private final UserRepository userRepository;
+    private final int expectedUsers;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    // Filtre en cours de reconstruction : les inscriptions y sont aussi ajoutées
+    private volatile BloomFilter rebuilding;
+
+    public UserAvailabilityService(UserRepository userRepository,
+                                   @Value("${users.availability.expected-users:100000}") int expectedUsers,
+                                   @Value("${users.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+        log.info("Filtre de disponibilité chargé ({} bits, {} hachages)", filter.numBits(), filter.numHashes());
+    }
+
+    @Scheduled(initialDelayString = "${users.availability.rebuild-ms:300000}",
+            fixedDelayString = "${users.availability.rebuild-ms:300000}")
+    public synchronized void rebuild() {
+        // Usernames et emails partagent le filtre, d'où 2 entrées par utilisateur
+        long users = Math.max(expectedUsers, userRepository.count());
+        BloomFilter next = new BloomFilter(2 * users, falsePositiveRate);
+        rebuilding = next;
+        try {
+            userRepository.findAllUsernames().forEach(username -> next.put(usernameKey(username)));
+            userRepository.findAllEmails().forEach(email -> next.put(emailKey(email)));
+            filter = next;
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    // À appeler après le commit de l'inscription. Ordre important : si rebuilding est null ici,
+    // soit la reconstruction n'a pas encore lu la base (et verra l'utilisateur), soit filter est déjà le nouveau
+    public void register(User user) {
+        put(rebuilding, user);
+        put(filter, user);
+    }
+
+    public boolean isUsernameAvailable(String username) {
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(usernameKey(username))) return true;
+        return !userRepository.existsByUsername(username);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(emailKey(email))) return true;
+        return !userRepository.existsByEmail(email);
+    }
+
+    private static void put(BloomFilter target, User user) {
+        if (target == null) return;
+        target.put(usernameKey(user.getUsername()));
+        target.put(emailKey(user.getEmail()));
+    }
+
+    private static String usernameKey(String username) {
+        return "u:" + username;
+    }
+
+    private static String emailKey(String email) {
+        return "e:" + email;
+    }
+}
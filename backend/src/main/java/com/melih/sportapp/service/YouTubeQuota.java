@@ -0,0 +1,62 @@
+package com.melih.sportapp.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Budget d'unités de quota YouTube pour la journée en cours.
+ * Google remet le quota à zéro à minuit, heure du Pacifique.
+ */
+public class YouTubeQuota {
+
+    private static final ZoneId RESET_ZONE = ZoneId.of("America/Los_Angeles");
+
+    private final int dailyLimit;
+    private final Clock clock;
+
+    private LocalDate day;
+    private int used;
+
+    public YouTubeQuota(int dailyLimit, Clock clock) {
+        this.dailyLimit = dailyLimit;
+        this.clock = clock;
+        this.day = today();
+    }
+
+    public synchronized boolean tryConsume(int units) {
+        rollOver();
+        if (used + units > dailyLimit) return false;
+        used += units;
+        return true;
+    }
+
+    // Rend des unités réservées mais finalement non utilisées
+    public synchronized void release(int units) {
+        rollOver();
+        used = Math.max(0, used - units);
+    }
+
+    // Appelé quand l'API répond quotaExceeded : plus d'appels avant la remise à zéro
+    public synchronized void exhaust() {
+        rollOver();
+        used = dailyLimit;
+    }
+
+    public synchronized int remaining() {
+        rollOver();
+        return dailyLimit - used;
+    }
+
+    private void rollOver() {
+        LocalDate now = today();
+        if (!now.equals(day)) {
+            day = now;
+            used = 0;
+        }
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(clock.withZone(RESET_ZONE));
+    }
+}
@@ -2,20 +2,109 @@ package com.melih.sportapp.service;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
 
 @Service
 public class YouTubeService {
 
-    @Value("${youtube.api.key}")
-    private String apiKey;
+    private static final Logger log = LoggerFactory.getLogger(YouTubeService.class);
+
+    // Coût en unités de quota de chaque appel (search.list / videos.list)
+    static final int SEARCH_COST = 100;
+    static final int VIDEOS_COST = 1;
+
+    private final String apiKey;
+    private final String baseUrl;
+    private final RestTemplate restTemplate;
+    private final SimpleCircuitBreaker circuitBreaker;
+    private final YouTubeQuota quota;
+
+    @Autowired
+    public YouTubeService(
+            @Value("${youtube.api.key}") String apiKey,
+            @Value("${youtube.api.base-url:https://www.googleapis.com/youtube/v3}") String baseUrl,
+            @Value("${youtube.api.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${youtube.api.read-timeout-ms:2000}") long readTimeoutMs,
+            @Value("${youtube.api.daily-quota:10000}") int dailyQuota,
+            @Value("${youtube.api.breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${youtube.api.breaker.open-ms:30000}") long openMs) {
+        this(apiKey, baseUrl, Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(readTimeoutMs),
+                new SimpleCircuitBreaker(failureThreshold, Duration.ofMillis(openMs), Clock.systemUTC()),
+                new YouTubeQuota(dailyQuota, Clock.systemUTC()));
+    }
+
+    YouTubeService(String apiKey, String baseUrl, Duration connectTimeout, Duration readTimeout,
+                   SimpleCircuitBreaker circuitBreaker, YouTubeQuota quota) {
+        this.apiKey = apiKey;
+        this.baseUrl = baseUrl;
+        this.circuitBreaker = circuitBreaker;
+        this.quota = quota;
+
+        // Un seul client HTTP partagé (pool de connexions du JDK) avec des timeouts stricts
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
 
+    // Renvoie null (pas de vidéo) dès qu'une limite est atteinte ou que l'API ne répond pas
     public String searchShortVideoUrl(String query) {
-        String searchUrl = "https://www.googleapis.com/youtube/v3/search?part=snippet&type=video&maxResults=5&q="
-                + query + "&key=" + apiKey;
-        RestTemplate restTemplate = new RestTemplate();
+        // Quota vérifié avant le disjoncteur : sans requête envoyée, aucun résultat n'est enregistré
+        if (!quota.tryConsume(SEARCH_COST)) {
+            return null;
+        }
+        if (!circuitBreaker.allowRequest()) {
+            quota.release(SEARCH_COST);
+            return null;
+        }
+        try {
+            String url = findShortVideo(query);
+            circuitBreaker.recordSuccess();
+            return url;
+        } catch (HttpClientErrorException.Forbidden e) {
+            if (e.getResponseBodyAsString().contains("quotaExceeded")) {
+                log.warn("Quota YouTube épuisé, plus de recherche avant la remise à zéro");
+                quota.exhaust();
+                circuitBreaker.recordSuccess();
+            } else {
+                circuitBreaker.recordFailure();
+            }
+            return null;
+        } catch (RuntimeException e) {
+            // Tout échec compte (timeout, réponse vide ou mal formée), sinon un essai HALF_OPEN resterait bloqué
+            log.warn("Recherche YouTube impossible pour '{}' : {}", query, e.getMessage());
+            circuitBreaker.recordFailure();
+            return null;
+        }
+    }
+
+    // Le quota de la recherche est déjà réservé par l'appelant
+    private String findShortVideo(String query) {
+        URI searchUrl = UriComponentsBuilder.fromUriString(baseUrl)
+                .path("/search")
+                .queryParam("part", "snippet")
+                .queryParam("type", "video")
+                .queryParam("maxResults", 5)
+                .queryParam("q", query)
+                .queryParam("key", apiKey)
+                .encode()
+                .build()
+                .toUri();
         String response = restTemplate.getForObject(searchUrl, String.class);
         JSONObject json = new JSONObject(response);
         JSONArray items = json.getJSONArray("items");
@@ -27,10 +116,19 @@ public class YouTubeService {
                 ids.append(",");
             ids.append(items.getJSONObject(i).getJSONObject("id").getString("videoId"));
         }
+        if (ids.isEmpty() || !quota.tryConsume(VIDEOS_COST)) {
+            return null;
+        }
 
         // Appelle videos.list pour avoir la durée
-        String detailsUrl = "https://www.googleapis.com/youtube/v3/videos?part=contentDetails&id=" + ids + "&key="
-                + apiKey;
+        URI detailsUrl = UriComponentsBuilder.fromUriString(baseUrl)
+                .path("/videos")
+                .queryParam("part", "contentDetails")
+                .queryParam("id", ids)
+                .queryParam("key", apiKey)
+                .encode()
+                .build()
+                .toUri();
         String detailsResponse = restTemplate.getForObject(detailsUrl, String.class);
         JSONObject detailsJson = new JSONObject(detailsResponse);
         JSONArray videos = detailsJson.getJSONArray("items");
@@ -50,6 +148,9 @@ public class YouTubeService {
     private int parseDuration(String duration) {
         int minutes = 0, seconds = 0;
         String time = duration.replace("PT", "");
+        if (time.contains("H")) {
+            return Integer.MAX_VALUE; // plus d'une heure, forcément trop long
+        }
         if (time.contains("M")) {
             String[] parts = time.split("M");
             minutes = Integer.parseInt(parts[0]);
@@ -0,0 +1,18 @@
+-- Journal des performances partitionné par mois (PostgreSQL).
+-- Exécuté au démarrage par PerformanceSchemaInitializer (PostgreSQL seulement), avant Hibernate : ddl-auto=update ne sait pas créer
+-- de table partitionnée et réutilise ensuite celle-ci.
+-- Les partitions mensuelles et la partition par défaut sont créées par PerformancePartitionManager.
+
+CREATE SEQUENCE IF NOT EXISTS performances_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS performances (
+    id               BIGINT           NOT NULL,
+    user_id          BIGINT           NOT NULL,
+    exercice_id      BIGINT           NOT NULL,
+    repetitions      INTEGER          NOT NULL,
+    charge           DOUBLE PRECISION NOT NULL,
+    date_realisation TIMESTAMP(6)     NOT NULL,
+    PRIMARY KEY (id, date_realisation)
+) PARTITION BY RANGE (date_realisation);
+
+CREATE INDEX IF NOT EXISTS idx_performances_user_date ON performances (user_id, date_realisation);
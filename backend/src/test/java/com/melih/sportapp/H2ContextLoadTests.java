@@ -0,0 +1,21 @@
+package com.melih.sportapp;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// Démarrage complet sur H2 (base de dev) : aucun script ou contrôle propre à PostgreSQL ne doit bloquer
+@SpringBootTest(properties = {
+		"SPRING_DATASOURCE_URL=jdbc:h2:mem:sportapp;DB_CLOSE_DELAY=-1",
+		"SPRING_DATASOURCE_USERNAME=sa",
+		"SPRING_DATASOURCE_PASSWORD=",
+		"SPRING_JPA_DATABASE_PLATFORM=org.hibernate.dialect.H2Dialect",
+		"JWT_SECRET=test-secret-test-secret-test-secret-0123",
+		"YOUTUBE_API_KEY=test-key"
+})
+class H2ContextLoadTests {
+
+	@Test
+	void contextLoadsOnH2() {
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.melih.sportapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTests {
+
+	@Test
+	void neverForgetsAnInsertedKey() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("user" + i);
+		}
+		for (int i = 0; i < 10_000; i++) {
+			assertTrue(filter.mightContain("user" + i), "user" + i);
+		}
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTarget() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("user" + i + "@mail.com");
+		}
+		int falsePositives = 0;
+		int probes = 100_000;
+		for (int i = 0; i < probes; i++) {
+			if (filter.mightContain("other" + i + "@mail.com")) falsePositives++;
+		}
+		// Cible 1 %, marge pour le hachage simple
+		assertTrue(falsePositives < probes * 0.03, "taux de faux positifs : " + falsePositives / (double) probes);
+	}
+
+	@Test
+	void sizingFollowsExpectedInsertions() {
+		BloomFilter filter = new BloomFilter(1_000, 0.01);
+		// m = -n ln p / (ln 2)^2 ≈ 9,6 bits par entrée, k ≈ 7
+		assertEquals(9_586, filter.numBits());
+		assertEquals(7, filter.numHashes());
+	}
+}
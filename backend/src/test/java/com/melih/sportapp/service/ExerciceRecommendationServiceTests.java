@@ -0,0 +1,132 @@
+package com.melih.sportapp.service;
+
+import com.melih.sportapp.repository.SeanceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ExerciceRecommendationServiceTests {
+
+	// Séances en "base" : id -> noms d'exercices
+	private final Map<Long, List<String>> seances = new TreeMap<>();
+	private final List<ExerciceRecommendationService> services = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		seances.put(1L, List.of("Squat", "Fentes", "Presse"));
+		seances.put(2L, List.of("Squat", "Fentes"));
+		seances.put(3L, List.of("Développé couché", "Dips", "Pompes"));
+		seances.put(4L, List.of("Développé couché", "Dips"));
+		seances.put(7L, List.of("Squat", "Soulevé de terre"));
+	}
+
+	@AfterEach
+	void shutdown() {
+		services.forEach(ExerciceRecommendationService::shutdown);
+	}
+
+	private List<Object[]> rows(Collection<Long> ids) {
+		List<Object[]> rows = new ArrayList<>();
+		for (Long id : ids) {
+			for (String nom : seances.getOrDefault(id, List.of())) {
+				rows.add(new Object[] { id, nom });
+			}
+		}
+		return rows;
+	}
+
+	private SeanceRepository repository() {
+		SeanceRepository repository = mock(SeanceRepository.class);
+		when(repository.findMaxId()).thenAnswer(invocation -> seances.isEmpty() ? 0L : ((TreeMap<Long, List<String>>) seances).lastKey());
+		when(repository.findExerciceNamesBetween(anyLong(), anyLong())).thenAnswer(invocation -> {
+			long from = invocation.getArgument(0);
+			long to = invocation.getArgument(1);
+			return rows(seances.keySet().stream().filter(id -> id >= from && id <= to).toList());
+		});
+		when(repository.findExerciceNamesByIds(anyCollection())).thenAnswer(invocation -> rows(invocation.getArgument(0)));
+		return repository;
+	}
+
+	private ExerciceRecommendationService service(SeanceRepository repository) {
+		// Petites tranches pour passer par plusieurs tâches en parallèle
+		ExerciceRecommendationService service = new ExerciceRecommendationService(repository, 4, 2, 100);
+		services.add(service);
+		return service;
+	}
+
+	// L'orthographe affichée est celle vue en premier, qui dépend de l'ordre de lecture
+	private static Map<String, Integer> normalized(Map<String, Integer> neighbors) {
+		Map<String, Integer> result = new HashMap<>();
+		neighbors.forEach((nom, count) -> result.put(nom.trim().toLowerCase(Locale.ROOT), count));
+		return result;
+	}
+
+	private static Map<String, Integer> normalized(List<ExerciceRecommendationService.Recommendation> recommendations) {
+		Map<String, Integer> result = new HashMap<>();
+		recommendations.forEach(r -> result.put(r.nom().trim().toLowerCase(Locale.ROOT), r.score()));
+		return result;
+	}
+
+	@Test
+	void recommendsExercisesTrainedTogether() {
+		ExerciceRecommendationService service = service(repository());
+		service.refresh();
+
+		List<ExerciceRecommendationService.Recommendation> recommendations = service.recommend(2L, 5);
+		assertEquals(List.of(
+				new ExerciceRecommendationService.Recommendation("Presse", 2),
+				new ExerciceRecommendationService.Recommendation("Soulevé de terre", 1)), recommendations);
+		assertEquals(List.of(), service.recommend(99L, 5));
+	}
+
+	@Test
+	void incrementalRefreshMatchesFullRebuild() {
+		ExerciceRecommendationService incremental = service(repository());
+		incremental.refresh();
+
+		// Ajout, modification, renommage et suppression de séances
+		seances.put(1L, List.of("Squat", "Fentes", "Presse", "Mollets"));
+		seances.remove(2L);
+		seances.put(4L, List.of("développé couché ", "Pompes"));
+		seances.put(8L, List.of("Pompes", "Dips", "Gainage"));
+		for (long id : List.of(1L, 2L, 4L, 8L)) {
+			incremental.markDirty(id);
+		}
+		incremental.refresh();
+
+		ExerciceRecommendationService fresh = service(repository());
+		fresh.refresh();
+
+		for (String nom : List.of("Squat", "Fentes", "Presse", "Mollets", "Développé couché", "Dips", "Pompes",
+				"Gainage", "Soulevé de terre")) {
+			assertEquals(normalized(fresh.neighborsOf(nom)), normalized(incremental.neighborsOf(nom)), nom);
+		}
+		for (Long id : seances.keySet()) {
+			assertEquals(normalized(fresh.recommend(id, 10)), normalized(incremental.recommend(id, 10)), "séance " + id);
+		}
+		assertEquals(List.of(), incremental.recommend(2L, 5));
+	}
+
+	@Test
+	void failedIncrementalReadIsRetried() {
+		SeanceRepository repository = repository();
+		ExerciceRecommendationService service = service(repository);
+		service.refresh();
+
+		seances.put(2L, List.of("Squat", "Fentes", "Mollets"));
+		service.markDirty(2L);
+		when(repository.findExerciceNamesByIds(anyCollection()))
+				.thenThrow(new RuntimeException("base indisponible"))
+				.thenAnswer(invocation -> rows(invocation.getArgument(0)));
+
+		assertThrows(RuntimeException.class, service::refresh);
+		service.refresh();
+		assertEquals(1, service.neighborsOf("Mollets").get("Squat"));
+	}
+}
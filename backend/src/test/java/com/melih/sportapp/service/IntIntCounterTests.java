@@ -0,0 +1,92 @@
+package com.melih.sportapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntIntCounterTests {
+
+	@Test
+	void addsAndReadsCounts() {
+		IntIntCounter counter = new IntIntCounter();
+		counter.add(3, 2);
+		counter.add(3, 5);
+		counter.add(0, 1);
+		assertEquals(7, counter.get(3));
+		assertEquals(1, counter.get(0));
+		assertEquals(0, counter.get(42));
+	}
+
+	@Test
+	void keepsCountsAcrossRehash() {
+		IntIntCounter counter = new IntIntCounter();
+		for (int key = 0; key < 10_000; key++) {
+			counter.add(key, key + 1);
+		}
+		for (int key = 0; key < 10_000; key++) {
+			assertEquals(key + 1, counter.get(key));
+		}
+	}
+
+	@Test
+	void decrementsToZeroAndReusesTheEntry() {
+		IntIntCounter counter = new IntIntCounter();
+		counter.add(5, 3);
+		counter.add(5, -3);
+		assertEquals(0, counter.get(5));
+		assertEquals(0, counter.top(10)[0].length);
+
+		counter.add(5, 2);
+		assertEquals(2, counter.get(5));
+	}
+
+	@Test
+	void zeroEntriesArePurgedOnRehashWithoutLosingOthers() {
+		IntIntCounter counter = new IntIntCounter();
+		for (int key = 0; key < 1_000; key++) {
+			counter.add(key, 1);
+			if (key % 2 == 0) counter.add(key, -1);
+		}
+		// Force d'autres agrandissements après les mises à zéro
+		for (int key = 1_000; key < 5_000; key++) {
+			counter.add(key, 1);
+		}
+		for (int key = 0; key < 1_000; key++) {
+			assertEquals(key % 2 == 0 ? 0 : 1, counter.get(key));
+		}
+		assertEquals(4_500, counter.top(Integer.MAX_VALUE)[0].length);
+	}
+
+	@Test
+	void ignoresZeroDeltaOnMissingKey() {
+		IntIntCounter counter = new IntIntCounter();
+		counter.add(7, 0);
+		assertEquals(0, counter.top(10)[0].length);
+	}
+
+	@Test
+	void topIsSortedByCountThenByHigherKey() {
+		IntIntCounter counter = new IntIntCounter();
+		counter.add(1, 5);
+		counter.add(2, 9);
+		counter.add(3, 5);
+		counter.add(4, 1);
+		counter.add(5, -2);
+
+		int[][] top = counter.top(3);
+		assertArrayEquals(new int[] { 2, 3, 1 }, top[0]);
+		assertArrayEquals(new int[] { 9, 5, 5 }, top[1]);
+	}
+
+	@Test
+	void addAllMergesCounts() {
+		IntIntCounter a = new IntIntCounter();
+		IntIntCounter b = new IntIntCounter();
+		a.add(1, 2);
+		b.add(1, 3);
+		b.add(2, 4);
+		a.addAll(b);
+		assertEquals(5, a.get(1));
+		assertEquals(4, a.get(2));
+	}
+}
@@ -0,0 +1,101 @@
+package com.melih.sportapp.service;
+
+import com.melih.sportapp.model.Performance;
+import com.melih.sportapp.repository.PerformanceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class PerformanceBufferTests {
+
+	// Intervalle long : seuls le seuil de lot et l'arrêt déclenchent une écriture
+	private static final long ONE_HOUR_MS = 3_600_000;
+
+	private final PerformanceRepository repository = mock(PerformanceRepository.class);
+	private PerformanceBuffer buffer;
+
+	@AfterEach
+	void stop() throws InterruptedException {
+		if (buffer != null) buffer.flushOnShutdown();
+	}
+
+	private static Performance performance() {
+		Performance performance = new Performance();
+		performance.setUserId(1L);
+		performance.setExerciceId(2L);
+		performance.setRepetitions(10);
+		performance.setCharge(60);
+		performance.setDateRealisation(LocalDateTime.now());
+		return performance;
+	}
+
+	@Test
+	void writesInBackgroundOnceBatchIsFull() {
+		buffer = new PerformanceBuffer(repository, 3, 100, ONE_HOUR_MS);
+		assertTrue(buffer.add(performance()));
+		assertTrue(buffer.add(performance()));
+		verifyNoInteractions(repository);
+
+		assertTrue(buffer.add(performance()));
+		verify(repository, timeout(1_000)).saveAll(argThat(batch -> ((List<?>) batch).size() == 3));
+		assertEquals(0, buffer.pendingCount());
+	}
+
+	@Test
+	void refusesWhenFull() {
+		buffer = new PerformanceBuffer(repository, 10, 2, ONE_HOUR_MS);
+		assertTrue(buffer.add(performance()));
+		assertTrue(buffer.add(performance()));
+		assertFalse(buffer.add(performance()));
+		assertEquals(2, buffer.pendingCount());
+	}
+
+	@Test
+	void failedBatchIsRequeuedAndNotRetriedBeforeBackoff() throws InterruptedException {
+		when(repository.saveAll(anyList())).thenThrow(new RuntimeException("base indisponible"));
+		buffer = new PerformanceBuffer(repository, 2, 100, ONE_HOUR_MS);
+		buffer.add(performance());
+		buffer.add(performance());
+		verify(repository, timeout(1_000)).saveAll(anyList());
+
+		// Nouveau lot complet : pas de nouvel essai pendant le délai d'attente
+		buffer.add(performance());
+		buffer.add(performance());
+		Thread.sleep(200);
+		verify(repository, times(1)).saveAll(anyList());
+		assertEquals(4, buffer.pendingCount());
+	}
+
+	@Test
+	void flushesRemainingOnShutdown() throws InterruptedException {
+		buffer = new PerformanceBuffer(repository, 50, 100, ONE_HOUR_MS);
+		buffer.add(performance());
+		buffer.add(performance());
+		buffer.flushOnShutdown();
+		verify(repository).saveAll(argThat(batch -> ((List<?>) batch).size() == 2));
+		assertEquals(0, buffer.pendingCount());
+		buffer = null;
+	}
+
+	@Test
+	void shutdownRetriesRequeuedBatch() throws InterruptedException {
+		when(repository.saveAll(anyList()))
+				.thenThrow(new RuntimeException("base indisponible"))
+				.thenReturn(List.of());
+		buffer = new PerformanceBuffer(repository, 2, 100, ONE_HOUR_MS);
+		buffer.add(performance());
+		buffer.add(performance());
+		verify(repository, timeout(1_000)).saveAll(anyList());
+
+		buffer.flushOnShutdown();
+		verify(repository, times(2)).saveAll(anyList());
+		assertEquals(0, buffer.pendingCount());
+		buffer = null;
+	}
+}
@@ -0,0 +1,95 @@
+package com.melih.sportapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimpleCircuitBreakerTests {
+
+	// Horloge avancée à la main
+	private static class TestClock extends Clock {
+		private long millis;
+
+		void advance(Duration duration) {
+			millis += duration.toMillis();
+		}
+
+		@Override
+		public long millis() {
+			return millis;
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+	}
+
+	private final TestClock clock = new TestClock();
+	private final SimpleCircuitBreaker breaker = new SimpleCircuitBreaker(2, Duration.ofSeconds(30), clock);
+
+	private void open() {
+		breaker.allowRequest();
+		breaker.recordFailure();
+		breaker.allowRequest();
+		breaker.recordFailure();
+	}
+
+	@Test
+	void opensAfterThresholdAndRefusesCalls() {
+		open();
+		assertEquals(SimpleCircuitBreaker.State.OPEN, breaker.getState());
+		assertFalse(breaker.allowRequest());
+	}
+
+	@Test
+	void successfulProbeClosesTheCircuit() {
+		open();
+		clock.advance(Duration.ofSeconds(30));
+		assertTrue(breaker.allowRequest());
+		assertFalse(breaker.allowRequest());
+		breaker.recordSuccess();
+		assertEquals(SimpleCircuitBreaker.State.CLOSED, breaker.getState());
+		assertTrue(breaker.allowRequest());
+	}
+
+	@Test
+	void failedProbeReopensTheCircuit() {
+		open();
+		clock.advance(Duration.ofSeconds(30));
+		assertTrue(breaker.allowRequest());
+		breaker.recordFailure();
+		assertEquals(SimpleCircuitBreaker.State.OPEN, breaker.getState());
+		assertFalse(breaker.allowRequest());
+	}
+
+	@Test
+	void lostProbeIsRetriedAfterOpenDuration() {
+		open();
+		clock.advance(Duration.ofSeconds(30));
+		assertTrue(breaker.allowRequest());
+		// L'essai ne rend jamais de résultat
+		clock.advance(Duration.ofSeconds(29));
+		assertFalse(breaker.allowRequest());
+		clock.advance(Duration.ofSeconds(1));
+		assertTrue(breaker.allowRequest());
+		breaker.recordSuccess();
+		assertEquals(SimpleCircuitBreaker.State.CLOSED, breaker.getState());
+	}
+}
@@ -0,0 +1,85 @@
+package com.melih.sportapp.service;
+
+import com.melih.sportapp.model.User;
+import com.melih.sportapp.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class UserAvailabilityServiceTests {
+
+	private final UserRepository repository = mock(UserRepository.class);
+	private final List<String> usernames = new ArrayList<>();
+	private final List<String> emails = new ArrayList<>();
+	private UserAvailabilityService service;
+
+	@BeforeEach
+	void setUp() {
+		when(repository.findAllUsernames()).thenAnswer(invocation -> List.copyOf(usernames));
+		when(repository.findAllEmails()).thenAnswer(invocation -> List.copyOf(emails));
+		when(repository.existsByUsername(anyString())).thenAnswer(invocation -> usernames.contains(invocation.getArgument(0)));
+		when(repository.existsByEmail(anyString())).thenAnswer(invocation -> emails.contains(invocation.getArgument(0)));
+		service = new UserAvailabilityService(repository, 1_000, 0.01);
+	}
+
+	private User save(String username, String email) {
+		User user = new User();
+		user.setUsername(username);
+		user.setEmail(email);
+		usernames.add(username);
+		emails.add(email);
+		return user;
+	}
+
+	@Test
+	void usersLoadedAtWarmUpAreTaken() {
+		for (int i = 0; i < 500; i++) {
+			save("user" + i, "user" + i + "@mail.com");
+		}
+		service.warmUp();
+		for (int i = 0; i < 500; i++) {
+			assertFalse(service.isUsernameAvailable("user" + i));
+			assertFalse(service.isEmailAvailable("user" + i + "@mail.com"));
+		}
+	}
+
+	@Test
+	void registeredUsersAreTaken() {
+		service.warmUp();
+		for (int i = 0; i < 500; i++) {
+			service.register(save("new" + i, "new" + i + "@mail.com"));
+		}
+		for (int i = 0; i < 500; i++) {
+			assertFalse(service.isUsernameAvailable("new" + i));
+			assertFalse(service.isEmailAvailable("new" + i + "@mail.com"));
+		}
+	}
+
+	@Test
+	void mostFreeNamesAreAnsweredWithoutTheDatabase() {
+		for (int i = 0; i < 500; i++) {
+			save("user" + i, "user" + i + "@mail.com");
+		}
+		service.warmUp();
+		for (int i = 0; i < 1_000; i++) {
+			assertTrue(service.isUsernameAvailable("free" + i));
+		}
+		verify(repository, atMost(50)).existsByUsername(anyString());
+	}
+
+	@Test
+	void rebuildPicksUpUsersRegisteredElsewhere() {
+		service.warmUp();
+		// Inscription traitée par une autre instance : seule la base est à jour
+		save("ailleurs", "ailleurs@mail.com");
+		service.rebuild();
+		assertFalse(service.isUsernameAvailable("ailleurs"));
+		assertFalse(service.isEmailAvailable("ailleurs@mail.com"));
+	}
+}
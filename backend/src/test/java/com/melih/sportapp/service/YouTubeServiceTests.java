@@ -0,0 +1,197 @@
+package com.melih.sportapp.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Les appels passent par un faux serveur YouTube local
+class YouTubeServiceTests {
+
+	private static final String SEARCH_BODY = "{\"items\":[{\"id\":{\"videoId\":\"long\"}},{\"id\":{\"videoId\":\"court\"}}]}";
+	private static final String VIDEOS_BODY = "{\"items\":[{\"id\":\"long\",\"contentDetails\":{\"duration\":\"PT1H2M\"}},"
+			+ "{\"id\":\"court\",\"contentDetails\":{\"duration\":\"PT2M30S\"}}]}";
+
+	// Horloge avancée à la main, à une date fixe pour ne pas changer de jour de quota
+	private static class MutableClock extends Clock {
+		private long millis = Instant.parse("2026-01-15T12:00:00Z").toEpochMilli();
+
+		void advance(Duration duration) {
+			millis += duration.toMillis();
+		}
+
+		@Override
+		public long millis() {
+			return millis;
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return Clock.fixed(instant(), zone);
+		}
+	}
+
+	private HttpServer server;
+	private final AtomicInteger hits = new AtomicInteger();
+	private volatile int status = 200;
+	private volatile String errorBody = "";
+	private volatile long delayMs = 0;
+	private volatile String lastQuery;
+	private volatile String searchBody = SEARCH_BODY;
+
+	@BeforeEach
+	void startServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/search", exchange -> {
+			lastQuery = exchange.getRequestURI().getQuery();
+			respond(exchange, searchBody);
+		});
+		server.createContext("/videos", exchange -> respond(exchange, VIDEOS_BODY));
+		server.start();
+	}
+
+	@AfterEach
+	void stopServer() {
+		server.stop(0);
+	}
+
+	private void respond(HttpExchange exchange, String body) throws IOException {
+		hits.incrementAndGet();
+		try {
+			Thread.sleep(delayMs);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		byte[] bytes = (status == 200 ? body : errorBody).getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream os = exchange.getResponseBody()) {
+			os.write(bytes);
+		}
+	}
+
+	private YouTubeService service(SimpleCircuitBreaker breaker, YouTubeQuota quota) {
+		String baseUrl = "http://localhost:" + server.getAddress().getPort();
+		return new YouTubeService("test-key", baseUrl, Duration.ofMillis(1_000), Duration.ofMillis(1_000), breaker, quota);
+	}
+
+	private YouTubeService service() {
+		return service(new SimpleCircuitBreaker(3, Duration.ofMinutes(1), Clock.systemUTC()),
+				new YouTubeQuota(10_000, Clock.systemUTC()));
+	}
+
+	@Test
+	void returnsFirstShortVideo() {
+		assertEquals("https://www.youtube.com/watch?v=court", service().searchShortVideoUrl("développé couché"));
+		assertEquals(2, hits.get());
+		assertTrue(lastQuery.contains("q=développé couché"));
+	}
+
+	@Test
+	void slowApiDegradesToNoVideo() {
+		delayMs = 3_000;
+		long start = System.nanoTime();
+		assertNull(service().searchShortVideoUrl("squat"));
+		assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_500);
+	}
+
+	@Test
+	void openCircuitSkipsTheApi() {
+		status = 500;
+		SimpleCircuitBreaker breaker = new SimpleCircuitBreaker(3, Duration.ofMinutes(1), Clock.systemUTC());
+		YouTubeService service = service(breaker, new YouTubeQuota(10_000, Clock.systemUTC()));
+		for (int i = 0; i < 3; i++) {
+			assertNull(service.searchShortVideoUrl("squat"));
+		}
+		assertEquals(SimpleCircuitBreaker.State.OPEN, breaker.getState());
+
+		status = 200;
+		assertNull(service.searchShortVideoUrl("squat"));
+		assertEquals(3, hits.get());
+	}
+
+	@Test
+	void emptyResponseCountsAsFailure() {
+		searchBody = "";
+		SimpleCircuitBreaker breaker = new SimpleCircuitBreaker(1, Duration.ofMinutes(1), Clock.systemUTC());
+		YouTubeService service = service(breaker, new YouTubeQuota(10_000, Clock.systemUTC()));
+		assertNull(service.searchShortVideoUrl("squat"));
+		assertEquals(SimpleCircuitBreaker.State.OPEN, breaker.getState());
+	}
+
+	@Test
+	void emptyBudgetSkipsTheApi() {
+		YouTubeQuota quota = new YouTubeQuota(YouTubeService.SEARCH_COST + YouTubeService.VIDEOS_COST, Clock.systemUTC());
+		YouTubeService service = service(new SimpleCircuitBreaker(3, Duration.ofMinutes(1), Clock.systemUTC()), quota);
+		assertNotNull(service.searchShortVideoUrl("squat"));
+		assertNull(service.searchShortVideoUrl("squat"));
+		assertEquals(2, hits.get());
+	}
+
+	@Test
+	void emptyBudgetDoesNotCloseHalfOpenCircuit() {
+		MutableClock clock = new MutableClock();
+		status = 500;
+		SimpleCircuitBreaker breaker = new SimpleCircuitBreaker(1, Duration.ofSeconds(30), clock);
+		YouTubeQuota quota = new YouTubeQuota(YouTubeService.SEARCH_COST, clock);
+		YouTubeService service = service(breaker, quota);
+		assertNull(service.searchShortVideoUrl("squat"));
+		assertEquals(SimpleCircuitBreaker.State.OPEN, breaker.getState());
+
+		// Budget épuisé : pas de requête, donc pas d'essai consommé ni de fermeture du disjoncteur
+		clock.advance(Duration.ofSeconds(30));
+		assertNull(service.searchShortVideoUrl("squat"));
+		assertEquals(SimpleCircuitBreaker.State.OPEN, breaker.getState());
+		assertEquals(1, hits.get());
+	}
+
+	@Test
+	void openCircuitDoesNotSpendBudget() {
+		status = 500;
+		SimpleCircuitBreaker breaker = new SimpleCircuitBreaker(1, Duration.ofMinutes(1), Clock.systemUTC());
+		YouTubeQuota quota = new YouTubeQuota(10_000, Clock.systemUTC());
+		YouTubeService service = service(breaker, quota);
+		assertNull(service.searchShortVideoUrl("squat"));
+		int remaining = quota.remaining();
+
+		assertNull(service.searchShortVideoUrl("squat"));
+		assertEquals(remaining, quota.remaining());
+	}
+
+	@Test
+	void quotaExceededResponseExhaustsBudget() {
+		status = 403;
+		errorBody = "{\"error\":{\"errors\":[{\"reason\":\"quotaExceeded\"}]}}";
+		YouTubeQuota quota = new YouTubeQuota(10_000, Clock.systemUTC());
+		YouTubeService service = service(new SimpleCircuitBreaker(3, Duration.ofMinutes(1), Clock.systemUTC()), quota);
+		assertNull(service.searchShortVideoUrl("squat"));
+		assertEquals(0, quota.remaining());
+
+		status = 200;
+		assertNull(service.searchShortVideoUrl("squat"));
+		assertEquals(1, hits.get());
+	}
+}